@@ -0,0 +1,175 @@
+package io.fries.result;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public final class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, Result<V>>> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private Map<K, CompletableFuture<Result<V>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> timer;
+    private long generation;
+
+    private BatchLoader(
+            final Function<Set<K>, Map<K, Result<V>>> batchFunction,
+            final Duration window,
+            final int maxBatchSize,
+            final ScheduledExecutorService scheduler
+    ) {
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+    }
+
+    public static <K, V> BatchLoader<K, V> of(
+            final Function<Set<K>, Map<K, Result<V>>> batchFunction,
+            final Duration window,
+            final int maxBatchSize,
+            final ScheduledExecutorService scheduler
+    ) {
+        requireNonNull(batchFunction, "The batch function cannot be null");
+        requireNonNull(window, "The batch window cannot be null");
+        requireNonNull(scheduler, "The batch scheduler cannot be null");
+        if (window.isNegative())
+            throw new IllegalArgumentException("The batch window cannot be negative");
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("The maximum batch size must be strictly positive");
+
+        return new BatchLoader<>(batchFunction, window, maxBatchSize, scheduler);
+    }
+
+    public CompletableFuture<Result<V>> load(final K key) {
+        requireNonNull(key, "The key to load cannot be null");
+
+        final CompletableFuture<Result<V>> future;
+        final Map<K, CompletableFuture<Result<V>>> batch;
+
+        synchronized (this) {
+            final CompletableFuture<Result<V>> existing = pending.get(key);
+            if (existing != null)
+                return existing;
+
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+
+            // A batch whose dispatch cannot be scheduled is dispatched right away instead.
+            if (pending.size() < maxBatchSize && (pending.size() > 1 || scheduleDispatch()))
+                return future;
+
+            batch = take();
+        }
+
+        submit(batch);
+        return future;
+    }
+
+    public void dispatch() {
+        final Map<K, CompletableFuture<Result<V>>> batch;
+
+        synchronized (this) {
+            if (pending.isEmpty())
+                return;
+
+            batch = take();
+        }
+
+        run(batch);
+    }
+
+    private boolean scheduleDispatch() {
+        // The timer only captures the generation of the batch, so that a cancelled timer left in the scheduler queue
+        // does not retain the keys and futures of a batch that was already dispatched.
+        final long scheduled = generation;
+
+        try {
+            timer = scheduler.schedule(() -> dispatchIfPending(scheduled), windowNanos, NANOSECONDS);
+            return true;
+        } catch (final RejectedExecutionException error) {
+            return false;
+        }
+    }
+
+    private Map<K, CompletableFuture<Result<V>>> take() {
+        final Map<K, CompletableFuture<Result<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+
+        return batch;
+    }
+
+    private void submit(final Map<K, CompletableFuture<Result<V>>> batch) {
+        try {
+            scheduler.execute(() -> run(batch));
+        } catch (final RejectedExecutionException error) {
+            // A scheduler that rejects the batch, for instance once shut down, leaves it to the calling thread.
+            run(batch);
+        }
+    }
+
+    private void dispatchIfPending(final long scheduled) {
+        final Map<K, CompletableFuture<Result<V>>> batch;
+
+        synchronized (this) {
+            // The batch may already have been dispatched because it was full or manually flushed.
+            if (generation != scheduled || pending.isEmpty())
+                return;
+
+            timer = null;
+            batch = take();
+        }
+
+        run(batch);
+    }
+
+    private void run(final Map<K, CompletableFuture<Result<V>>> batch) {
+        final Map<K, Result<V>> values;
+
+        // Any throwable, including a java.lang.Error, must complete the futures of the batch.
+        try {
+            values = requireNonNull(
+                    batchFunction.apply(unmodifiableSet(batch.keySet())),
+                    "The batch function cannot return a null map"
+            );
+        } catch (final Throwable error) {
+            fail(batch, error);
+            return;
+        }
+
+        batch.forEach((key, future) -> {
+            try {
+                future.complete(Result
+                        .ofNullable(values.get(key), () -> new NoSuchElementException("No result was loaded for the key: " + key))
+                        .flatMap(Function.identity()));
+            } catch (final Throwable error) {
+                future.complete(Result.error(error));
+            }
+        });
+    }
+
+    private void fail(final Map<K, CompletableFuture<Result<V>>> batch, final Throwable error) {
+        final Result<V> result = Result.error(error);
+        batch.values().forEach(future -> future.complete(result));
+    }
+}
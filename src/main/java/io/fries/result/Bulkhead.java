@@ -0,0 +1,158 @@
+package io.fries.result;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+public final class Bulkhead {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final Predicate<Throwable> TIMEOUT_OR_REJECTION = error -> error instanceof TimeoutException
+            || error instanceof SocketTimeoutException
+            || error instanceof RejectedExecutionException;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final Predicate<Throwable> overload;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger successes = new AtomicInteger();
+
+    private Bulkhead(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final boolean adaptive,
+            final Predicate<Throwable> overload
+    ) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.adaptive = adaptive;
+        this.overload = overload;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    public static Bulkhead fixed(final int permits) {
+        if (permits < 1)
+            throw new IllegalArgumentException("The number of permits must be strictly positive");
+
+        return new Bulkhead(permits, permits, permits, false, TIMEOUT_OR_REJECTION);
+    }
+
+    public static Bulkhead adaptive(final int initialLimit, final int minLimit, final int maxLimit) {
+        return adaptive(initialLimit, minLimit, maxLimit, TIMEOUT_OR_REJECTION);
+    }
+
+    public static Bulkhead adaptive(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Predicate<Throwable> overload
+    ) {
+        requireNonNull(overload, "The overload predicate cannot be null");
+        if (minLimit < 1)
+            throw new IllegalArgumentException("The minimum limit must be strictly positive");
+        if (maxLimit < minLimit)
+            throw new IllegalArgumentException("The maximum limit cannot be lower than the minimum limit");
+        if (initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("The initial limit must be between the minimum and maximum limits");
+
+        return new Bulkhead(initialLimit, minLimit, maxLimit, true, overload);
+    }
+
+    public <T> Result<T> execute(final Supplier<T> supplier) {
+        requireNonNull(supplier, "The value supplier cannot be null");
+        return flatExecute(() -> Result.of(supplier));
+    }
+
+    public <T> Result<T> flatExecute(final Supplier<Result<T>> supplier) {
+        requireNonNull(supplier, "The result supplier cannot be null");
+
+        if (!tryAcquire())
+            return Result.error(new RejectionException());
+
+        Result<T> result = null;
+        try {
+            result = supplier.get();
+            return result;
+        } finally {
+            release(result);
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int availablePermits() {
+        return Math.max(0, limit.get() - inFlight.get());
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get())
+                return false;
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    private void release(final Result<?> result) {
+        final int released = inFlight.getAndDecrement();
+        final int current = limit.get();
+
+        // The limit only adapts while it is actually being used: at low utilization, latency and errors
+        // say nothing about the capacity of the dependency.
+        if (!adaptive || result == null || released * 2 < current)
+            return;
+
+        if (result.isOk())
+            increaseLimit(current);
+        else if (overload.test(result.getError()))
+            decreaseLimit(current);
+    }
+
+    private void decreaseLimit(final int current) {
+        successes.set(0);
+        limit.compareAndSet(current, Math.max(minLimit, (int) (current * BACKOFF_RATIO)));
+    }
+
+    private void increaseLimit(final int current) {
+        // Grow by one permit per window of `limit` successes.
+        if (successes.incrementAndGet() < current)
+            return;
+
+        successes.set(0);
+        limit.compareAndSet(current, Math.min(maxLimit, current + 1));
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{" +
+                "limit=" + limit +
+                ", inFlight=" + inFlight +
+                '}';
+    }
+
+    // A fresh stackless instance per rejection: a shared one could be mutated by any caller.
+    private static final class RejectionException extends RejectedExecutionException {
+
+        private RejectionException() {
+            super("The bulkhead has no permit available");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -82,7 +82,8 @@ class Error<T> implements Result<T> {
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        // Traced results are equal to their untraced counterparts.
+        if (!(o instanceof Error)) return false;
         final Error<?> error = (Error<?>) o;
         return Objects.equals(throwable, error.throwable);
     }
@@ -0,0 +1,72 @@
+package io.fries.result;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+public final class ErrorMapper implements Function<Throwable, Throwable> {
+
+    private final Map<Class<?>, Function<Throwable, ? extends Throwable>> rules;
+    private final Function<Throwable, ? extends Throwable> fallback;
+
+    private final ClassValue<Function<Throwable, ? extends Throwable>> resolved = new ClassValue<>() {
+        @Override
+        protected Function<Throwable, ? extends Throwable> computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ErrorMapper(
+            final Map<Class<?>, Function<Throwable, ? extends Throwable>> rules,
+            final Function<Throwable, ? extends Throwable> fallback
+    ) {
+        this.rules = rules;
+        this.fallback = fallback;
+    }
+
+    public static ErrorMapper create() {
+        return new ErrorMapper(new LinkedHashMap<>(), Function.identity());
+    }
+
+    public <E extends Throwable> ErrorMapper when(final Class<E> type, final Function<? super E, ? extends Throwable> mapper) {
+        requireNonNull(type, "The error type cannot be null");
+        requireNonNull(mapper, "The error mapper cannot be null");
+
+        final Map<Class<?>, Function<Throwable, ? extends Throwable>> extended = new LinkedHashMap<>(rules);
+        extended.put(type, throwable -> mapper.apply(type.cast(throwable)));
+        return new ErrorMapper(extended, fallback);
+    }
+
+    public ErrorMapper otherwise(final Function<Throwable, ? extends Throwable> fallback) {
+        requireNonNull(fallback, "The fallback error mapper cannot be null");
+        return new ErrorMapper(rules, fallback);
+    }
+
+    @Override
+    public Throwable apply(final Throwable throwable) {
+        requireNonNull(throwable, "The error to map cannot be null");
+
+        final Throwable mapped = resolved.get(throwable.getClass()).apply(throwable);
+        return requireNonNull(mapped, "The error mapper cannot return a null error");
+    }
+
+    private Function<Throwable, ? extends Throwable> resolve(final Class<?> type) {
+        // The closest superclass having a rule is the most specific one.
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final Function<Throwable, ? extends Throwable> rule = rules.get(current);
+            if (rule != null)
+                return rule;
+        }
+
+        return fallback;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorMapper{" +
+                "rules=" + rules.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,184 @@
+package io.fries.result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public final class Hedger {
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+    private static final double LATENCY_PERCENTILE = 0.95;
+
+    // The default executor, used by Result.hedge, is bounded so that attempts stuck on a slow dependency cannot
+    // pile up threads: beyond 64 running attempts, hedges are skipped and new calls fail with a RejectedExecutionException.
+    private static final int DEFAULT_MAX_THREADS = 64;
+    private static final ExecutorService DEFAULT_EXECUTOR = new ThreadPoolExecutor(
+            0, DEFAULT_MAX_THREADS,
+            60, SECONDS,
+            new SynchronousQueue<>(),
+            new HedgeThreadFactory()
+    );
+
+    private final long initialDelayNanos;
+    private final int maxHedges;
+    private final boolean adaptive;
+    private final ExecutorService executor;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+    private final AtomicLong recordedLatencies = new AtomicLong();
+
+    private Hedger(final Duration initialDelay, final int maxHedges, final boolean adaptive, final ExecutorService executor) {
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.maxHedges = maxHedges;
+        this.adaptive = adaptive;
+        this.executor = executor;
+    }
+
+    public static Hedger fixed(final Duration delay, final int maxHedges) {
+        return fixed(delay, maxHedges, DEFAULT_EXECUTOR);
+    }
+
+    public static Hedger fixed(final Duration delay, final int maxHedges, final ExecutorService executor) {
+        return create(delay, maxHedges, false, executor);
+    }
+
+    public static Hedger adaptive(final Duration initialDelay, final int maxHedges) {
+        return adaptive(initialDelay, maxHedges, DEFAULT_EXECUTOR);
+    }
+
+    public static Hedger adaptive(final Duration initialDelay, final int maxHedges, final ExecutorService executor) {
+        return create(initialDelay, maxHedges, true, executor);
+    }
+
+    private static Hedger create(final Duration delay, final int maxHedges, final boolean adaptive, final ExecutorService executor) {
+        requireNonNull(delay, "The hedging delay cannot be null");
+        requireNonNull(executor, "The hedging executor cannot be null");
+        if (delay.isNegative())
+            throw new IllegalArgumentException("The hedging delay cannot be negative");
+        if (maxHedges < 0)
+            throw new IllegalArgumentException("The maximum number of hedges cannot be negative");
+
+        return new Hedger(delay, maxHedges, adaptive, executor);
+    }
+
+    public <T> Result<T> execute(final Supplier<T> supplier) {
+        requireNonNull(supplier, "The value supplier cannot be null");
+
+        final long delayNanos = delayNanos();
+        final ExecutorCompletionService<Result<T>> completion = new ExecutorCompletionService<>(executor);
+        final List<Future<Result<T>>> attempts = new ArrayList<>(maxHedges + 1);
+
+        try {
+            attempts.add(completion.submit(attempt(supplier)));
+        } catch (final RejectedExecutionException error) {
+            return Result.error(error);
+        }
+
+        long nextHedge = System.nanoTime() + delayNanos;
+        int pending = 1;
+        boolean hedging = maxHedges > 0;
+        Result<T> lastError = null;
+
+        try {
+            // Errors do not end the call early: hedges keep being launched on schedule until an Ok result arrives.
+            while (pending > 0 || hedging) {
+                final Future<Result<T>> done = hedging
+                        ? completion.poll(nextHedge - System.nanoTime(), NANOSECONDS)
+                        : completion.take();
+
+                if (done == null) {
+                    try {
+                        attempts.add(completion.submit(attempt(supplier)));
+                        pending++;
+                    } catch (final RejectedExecutionException error) {
+                        // A saturated executor stops the hedging, the pending attempts can still succeed.
+                        hedging = false;
+                    }
+
+                    nextHedge += delayNanos;
+                    hedging = hedging && attempts.size() <= maxHedges;
+                    continue;
+                }
+
+                pending--;
+                final Result<T> result = done.get();
+                if (result.isOk())
+                    return result;
+
+                lastError = result;
+            }
+
+            return lastError;
+        } catch (final InterruptedException error) {
+            Thread.currentThread().interrupt();
+            return Result.error(error);
+        } catch (final ExecutionException error) {
+            return Result.error(error.getCause());
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private <T> Callable<Result<T>> attempt(final Supplier<T> supplier) {
+        return () -> {
+            final long start = System.nanoTime();
+            try {
+                return Result.of(supplier);
+            } finally {
+                // Every attempt is recorded, whatever its outcome: a losing attempt cancelled by the winner reports
+                // its elapsed time so far as a lower bound, otherwise only the winners would shrink the delay.
+                if (adaptive)
+                    recordLatency(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        final long index = recordedLatencies.getAndIncrement();
+        latencies.set((int) (index % LATENCY_SAMPLES), latencyNanos);
+    }
+
+    long delayNanos() {
+        final int samples = (int) Math.min(recordedLatencies.get(), LATENCY_SAMPLES);
+        if (!adaptive || samples < MIN_LATENCY_SAMPLES)
+            return initialDelayNanos;
+
+        final long[] snapshot = new long[samples];
+        for (int i = 0; i < samples; i++)
+            snapshot[i] = latencies.get(i);
+
+        Arrays.sort(snapshot);
+        return snapshot[(int) Math.ceil(samples * LATENCY_PERCENTILE) - 1];
+    }
+
+    private static final class HedgeThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threads = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "result-hedge-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
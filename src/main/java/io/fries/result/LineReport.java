@@ -0,0 +1,96 @@
+package io.fries.result;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+
+public final class LineReport {
+
+    private final long okCount;
+    private final long errorCount;
+    private final List<LineError> errors;
+
+    LineReport(final long okCount, final long errorCount, final List<LineError> errors) {
+        this.okCount = okCount;
+        this.errorCount = errorCount;
+        this.errors = unmodifiableList(errors);
+    }
+
+    public long okCount() {
+        return okCount;
+    }
+
+    public long errorCount() {
+        return errorCount;
+    }
+
+    public List<LineError> errors() {
+        return errors;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final LineReport that = (LineReport) o;
+        return okCount == that.okCount &&
+                errorCount == that.errorCount &&
+                Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(okCount, errorCount, errors);
+    }
+
+    @Override
+    public String toString() {
+        return "LineReport{" +
+                "okCount=" + okCount +
+                ", errorCount=" + errorCount +
+                ", errors=" + errors +
+                '}';
+    }
+
+    public static final class LineError {
+
+        private final long lineNumber;
+        private final Throwable error;
+
+        LineError(final long lineNumber, final Throwable error) {
+            this.lineNumber = lineNumber;
+            this.error = error;
+        }
+
+        public long lineNumber() {
+            return lineNumber;
+        }
+
+        public Throwable error() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final LineError that = (LineError) o;
+            return lineNumber == that.lineNumber &&
+                    Objects.equals(error, that.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, error);
+        }
+
+        @Override
+        public String toString() {
+            return "LineError{" +
+                    "lineNumber=" + lineNumber +
+                    ", error=" + error +
+                    '}';
+        }
+    }
+}
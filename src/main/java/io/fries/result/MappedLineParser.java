@@ -0,0 +1,308 @@
+package io.fries.result;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+public final class MappedLineParser {
+
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final int ALIGNMENT_BUFFER_SIZE = 8192;
+
+    private MappedLineParser() {
+    }
+
+    public static <T> Result<LineReport> parse(
+            final Path path,
+            final Function<CharSequence, Result<T>> parser,
+            final Consumer<? super T> consumer,
+            final int maxErrors,
+            final int parallelism
+    ) {
+        requireNonNull(path, "The path of the file cannot be null");
+        requireNonNull(parser, "The line parser cannot be null");
+        requireNonNull(consumer, "The value consumer cannot be null");
+        if (maxErrors < 0)
+            throw new IllegalArgumentException("The maximum number of reported errors cannot be negative");
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be strictly positive");
+
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final long[] boundaries = chunkBoundaries(channel, parallelism);
+            final int chunks = boundaries.length - 1;
+
+            final List<Chunk> parsed = parallelism == 1 || chunks == 1
+                    ? parseSequentially(channel, boundaries, parser, consumer, maxErrors)
+                    : parseInParallel(channel, boundaries, parser, consumer, maxErrors, Math.min(parallelism, chunks));
+
+            return Result.ok(report(parsed, maxErrors));
+        } catch (final IOException error) {
+            return Result.error(error);
+        }
+    }
+
+    private static <T> List<Chunk> parseSequentially(
+            final FileChannel channel,
+            final long[] boundaries,
+            final Function<CharSequence, Result<T>> parser,
+            final Consumer<? super T> consumer,
+            final int maxErrors
+    ) throws IOException {
+        final List<Chunk> parsed = new ArrayList<>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++)
+            parsed.add(parseChunk(map(channel, boundaries[i], boundaries[i + 1]), parser, consumer, maxErrors));
+
+        return parsed;
+    }
+
+    // Exactly `threads` threads parse the chunks, so the consumer is called concurrently by that many threads.
+    private static <T> List<Chunk> parseInParallel(
+            final FileChannel channel,
+            final long[] boundaries,
+            final Function<CharSequence, Result<T>> parser,
+            final Consumer<? super T> consumer,
+            final int maxErrors,
+            final int threads
+    ) throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Future<Chunk>> futures = new ArrayList<>(boundaries.length - 1);
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                final long start = boundaries[i];
+                final long end = boundaries[i + 1];
+                futures.add(executor.submit(() -> parseChunk(map(channel, start, end), parser, consumer, maxErrors)));
+            }
+
+            final List<Chunk> parsed = new ArrayList<>(futures.size());
+            for (final Future<Chunk> future : futures)
+                parsed.add(await(future));
+
+            return parsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Chunk await(final Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException error) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted = new InterruptedIOException("The parsing of the file was interrupted");
+            interrupted.initCause(error);
+            throw interrupted;
+        } catch (final ExecutionException error) {
+            // Only the mapping of the file reports I/O errors, failures of the consumer are rethrown as is.
+            final Throwable cause = error.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof java.lang.Error)
+                throw (java.lang.Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static long[] chunkBoundaries(final FileChannel channel, final int parallelism) throws IOException {
+        final long size = channel.size();
+        final long chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, (size + parallelism - 1) / parallelism));
+
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+
+        for (long nominal = chunkSize; nominal < size; nominal += chunkSize) {
+            final long aligned = alignToLine(channel, nominal, size);
+            // A single line spanning several nominal chunks yields the same aligned boundary more than once.
+            if (aligned > boundaries.get(boundaries.size() - 1) && aligned < size)
+                boundaries.add(aligned);
+        }
+
+        boundaries.add(size);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long alignToLine(final FileChannel channel, final long position, final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(ALIGNMENT_BUFFER_SIZE);
+
+        for (long offset = position - 1; offset < size; offset += buffer.limit()) {
+            buffer.clear();
+            if (channel.read(buffer, offset) <= 0)
+                break;
+
+            buffer.flip();
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n')
+                    return offset + i + 1;
+            }
+        }
+
+        return size;
+    }
+
+    private static MappedByteBuffer map(final FileChannel channel, final long start, final long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE)
+            throw new IOException("A line of the file is too long to be mapped: " + (end - start) + " bytes");
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    private static <T> Chunk parseChunk(
+            final ByteBuffer buffer,
+            final Function<CharSequence, Result<T>> parser,
+            final Consumer<? super T> consumer,
+            final int maxErrors
+    ) {
+        final Chunk chunk = new Chunk();
+        final int limit = buffer.limit();
+
+        int lineStart = 0;
+        boolean ascii = true;
+
+        for (int i = 0; i < limit; i++) {
+            final byte current = buffer.get(i);
+
+            if (current == '\n') {
+                parseLine(buffer, lineStart, i, ascii, parser, consumer, maxErrors, chunk);
+                lineStart = i + 1;
+                ascii = true;
+            } else if (current < 0) {
+                ascii = false;
+            }
+        }
+
+        if (lineStart < limit)
+            parseLine(buffer, lineStart, limit, ascii, parser, consumer, maxErrors, chunk);
+
+        return chunk;
+    }
+
+    private static <T> void parseLine(
+            final ByteBuffer buffer,
+            final int start,
+            final int end,
+            final boolean ascii,
+            final Function<CharSequence, Result<T>> parser,
+            final Consumer<? super T> consumer,
+            final int maxErrors,
+            final Chunk chunk
+    ) {
+        final int length = end > start && buffer.get(end - 1) == '\r'
+                ? end - start - 1
+                : end - start;
+
+        final CharSequence line = ascii
+                ? new AsciiLine(buffer, start, length)
+                : decode(buffer, start, length);
+
+        Result<T> result;
+        try {
+            result = requireNonNull(parser.apply(line), "The line parser cannot return a null result");
+        } catch (final Exception error) {
+            result = Result.error(error);
+        }
+
+        final long lineIndex = chunk.lines++;
+        if (result.isOk()) {
+            chunk.okCount++;
+            consumer.accept(result.get());
+        } else {
+            chunk.errorCount++;
+            if (chunk.errors.size() < maxErrors)
+                chunk.errors.add(new LineReport.LineError(lineIndex, result.getError()));
+        }
+    }
+
+    private static String decode(final ByteBuffer buffer, final int start, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.duplicate().position(start).get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static LineReport report(final List<Chunk> chunks, final int maxErrors) {
+        long okCount = 0;
+        long errorCount = 0;
+        long firstLineNumber = 1;
+        final List<LineReport.LineError> errors = new ArrayList<>();
+
+        for (final Chunk chunk : chunks) {
+            okCount += chunk.okCount;
+            errorCount += chunk.errorCount;
+
+            for (final LineReport.LineError error : chunk.errors) {
+                if (errors.size() < maxErrors)
+                    errors.add(new LineReport.LineError(firstLineNumber + error.lineNumber(), error.error()));
+            }
+
+            firstLineNumber += chunk.lines;
+        }
+
+        return new LineReport(okCount, errorCount, errors);
+    }
+
+    private static final class Chunk {
+
+        private final List<LineReport.LineError> errors = new ArrayList<>();
+
+        private long lines;
+        private long okCount;
+        private long errorCount;
+    }
+
+    private static final class AsciiLine implements CharSequence {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        private AsciiLine(final ByteBuffer buffer, final int offset, final int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+
+            return (char) buffer.get(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end)
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+
+            return new AsciiLine(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().position(offset).get(bytes);
+            return new String(bytes, US_ASCII);
+        }
+    }
+}
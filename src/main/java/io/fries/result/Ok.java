@@ -77,7 +77,8 @@ class Ok<T> implements Result<T> {
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        // Traced results are equal to their untraced counterparts.
+        if (!(o instanceof Ok)) return false;
         final Ok<?> ok = (Ok<?>) o;
         return Objects.equals(value, ok.value);
     }
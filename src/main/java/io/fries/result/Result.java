@@ -1,7 +1,8 @@
 package io.fries.result;
 
-import java.util.NoSuchElementException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,12 +14,16 @@ public interface Result<T> {
 
     static <T> Result<T> ok(final T value) {
         requireNonNull(value, "The value of a Result cannot be null");
-        return new Ok<>(value);
+        return Trace.ENABLED
+                ? new TracedOk<>(value, Trace.start("ok", false))
+                : new Ok<>(value);
     }
 
     static <T, E extends Throwable> Result<T> error(final E throwable) {
         requireNonNull(throwable, "The error of a Result cannot be null");
-        return new Error<>(throwable);
+        return Trace.ENABLED
+                ? new TracedError<>(throwable, Trace.start("error", true))
+                : new Error<>(throwable);
     }
 
     static <T> Result<T> of(final Supplier<T> supplier) {
@@ -33,15 +38,11 @@ public interface Result<T> {
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static <T> Result<T> of(final Optional<T> optional) {
-        requireNonNull(optional, "The optional value cannot be null");
-
-        return optional
-                .map(Result::ok)
-                .orElseGet(() -> error(new NoSuchElementException("No value present when unwrapping the optional")));
+        return StackTracePolicy.getDefault().of(optional);
     }
 
     static <T> Result<T> ofNullable(final T value) {
-        return ofNullable(value, () -> new NullPointerException("The result was initialized with a null value"));
+        return StackTracePolicy.getDefault().ofNullable(value);
     }
 
     static <T> Result<T> ofNullable(final T value, final Supplier<? extends Throwable> errorSupplier) {
@@ -52,6 +53,33 @@ public interface Result<T> {
                 : error(errorSupplier.get());
     }
 
+    @SuppressWarnings("unchecked")
+    static <S, T> Result<T> tailRec(final S seed, final Function<? super S, Result<Step<S, T>>> step) {
+        requireNonNull(step, "The step function cannot be null");
+
+        S state = seed;
+        while (true) {
+            final Result<Step<S, T>> result = requireNonNull(step.apply(state), "The step function cannot return a null result");
+            // An error carries no value: it is returned as is, without recording a map operation in its trace.
+            if (result.isError())
+                return (Result<T>) result;
+
+            final Step<S, T> next = result.get();
+            if (next.isDone())
+                return ok(next.value());
+
+            state = next.state();
+        }
+    }
+
+    static <T> Result<T> hedge(final Supplier<T> supplier, final Duration delay, final int maxHedges) {
+        return Hedger.fixed(delay, maxHedges).execute(supplier);
+    }
+
+    static <T> Result<T> hedge(final Supplier<T> supplier, final Duration delay, final int maxHedges, final ExecutorService executor) {
+        return Hedger.fixed(delay, maxHedges, executor).execute(supplier);
+    }
+
     boolean isOk();
 
     void ifOk(final Consumer<T> consumer);
@@ -73,4 +101,8 @@ public interface Result<T> {
     T getOrElse(final Supplier<T> supplier);
 
     Throwable getError();
+
+    default Optional<String> trace() {
+        return Optional.empty();
+    }
 }
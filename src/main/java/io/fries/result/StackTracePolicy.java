@@ -0,0 +1,113 @@
+package io.fries.result;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+public final class StackTracePolicy {
+
+    private static final StackTracePolicy FULL = new StackTracePolicy(1);
+    private static final StackTracePolicy STACKLESS = new StackTracePolicy(0);
+
+    private static volatile StackTracePolicy defaultPolicy = FULL;
+
+    private final int sampleRate;
+
+    private StackTracePolicy(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public static StackTracePolicy full() {
+        return FULL;
+    }
+
+    public static StackTracePolicy sampled(final int sampleRate) {
+        if (sampleRate < 1)
+            throw new IllegalArgumentException("The sample rate must be strictly positive");
+
+        return sampleRate == 1 ? FULL : new StackTracePolicy(sampleRate);
+    }
+
+    public static StackTracePolicy stackless() {
+        return STACKLESS;
+    }
+
+    public static StackTracePolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    public static void setDefault(final StackTracePolicy policy) {
+        requireNonNull(policy, "The stack trace policy cannot be null");
+        defaultPolicy = policy;
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public <T> Result<T> of(final Optional<T> optional) {
+        requireNonNull(optional, "The optional value cannot be null");
+
+        return optional
+                .map(Result::ok)
+                .orElseGet(() -> Result.error(noSuchElement("No value present when unwrapping the optional")));
+    }
+
+    public <T> Result<T> ofNullable(final T value) {
+        return Result.ofNullable(value, () -> nullPointer("The result was initialized with a null value"));
+    }
+
+    boolean shouldCapture() {
+        switch (sampleRate) {
+            case 0:
+                return false;
+            case 1:
+                return true;
+            default:
+                return ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        }
+    }
+
+    NullPointerException nullPointer(final String message) {
+        return shouldCapture()
+                ? new NullPointerException(message)
+                : new StacklessNullPointerException(message);
+    }
+
+    NoSuchElementException noSuchElement(final String message) {
+        return shouldCapture()
+                ? new NoSuchElementException(message)
+                : new StacklessNoSuchElementException(message);
+    }
+
+    @Override
+    public String toString() {
+        return "StackTracePolicy{" +
+                "sampleRate=" + sampleRate +
+                '}';
+    }
+
+    // The errors created by the library itself skip `fillInStackTrace` but remain assignable to their JDK counterparts.
+    private static final class StacklessNullPointerException extends NullPointerException {
+
+        private StacklessNullPointerException(final String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessNoSuchElementException extends NoSuchElementException {
+
+        private StacklessNoSuchElementException(final String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
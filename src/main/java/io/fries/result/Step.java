@@ -0,0 +1,61 @@
+package io.fries.result;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+public final class Step<S, T> {
+
+    private final S state;
+    private final T value;
+    private final boolean done;
+
+    private Step(final S state, final T value, final boolean done) {
+        this.state = state;
+        this.value = value;
+        this.done = done;
+    }
+
+    public static <S, T> Step<S, T> next(final S state) {
+        return new Step<>(state, null, false);
+    }
+
+    public static <S, T> Step<S, T> done(final T value) {
+        requireNonNull(value, "The value of a Result cannot be null");
+        return new Step<>(null, value, true);
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    S state() {
+        return state;
+    }
+
+    T value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Step<?, ?> step = (Step<?, ?>) o;
+        return done == step.done &&
+                Objects.equals(state, step.state) &&
+                Objects.equals(value, step.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, value, done);
+    }
+
+    @Override
+    public String toString() {
+        return done
+                ? "Step.done{value=" + value + '}'
+                : "Step.next{state=" + state + '}';
+    }
+}
@@ -0,0 +1,154 @@
+package io.fries.result;
+
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.Objects;
+
+final class Trace {
+
+    static final boolean ENABLED = Boolean.getBoolean("io.fries.result.trace");
+    static final int CAPACITY = Math.max(1, Integer.getInteger("io.fries.result.trace.capacity", 32));
+
+    private static final Trace EMPTY = new Trace(new Entry[0], 0);
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final String LIBRARY_PACKAGE = Trace.class.getPackageName() + '.';
+    private static final URL LIBRARY_LOCATION = location(Trace.class);
+
+    // Library classes share the package and the code source of Trace: test classes, or any user code declared in the
+    // same package, are loaded from another location and remain valid caller locations.
+    private static final ClassValue<Boolean> LIBRARY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return type.getName().startsWith(LIBRARY_PACKAGE) && Objects.equals(location(type), LIBRARY_LOCATION);
+        }
+    };
+
+    private final Entry[] entries;
+    private final long dropped;
+
+    private Trace(final Entry[] entries, final long dropped) {
+        this.entries = entries;
+        this.dropped = dropped;
+    }
+
+    static Trace empty() {
+        return EMPTY;
+    }
+
+    static Trace start(final String operation, final boolean origin) {
+        return EMPTY.append(operation, origin);
+    }
+
+    static <T> Result<T> chain(final Trace trace, final String operation, final Result<T> result) {
+        if (result instanceof TracedOk) {
+            final TracedOk<T> ok = (TracedOk<T>) result;
+            return new TracedOk<>(ok.get(), trace.append(operation, false).concat(ok.operations()));
+        }
+        if (result instanceof TracedError) {
+            final TracedError<T> error = (TracedError<T>) result;
+            return new TracedError<>(error.getError(), trace.append(operation, true).concat(error.operations()));
+        }
+        if (result instanceof Ok)
+            return new TracedOk<>(result.get(), trace.append(operation, false));
+        if (result instanceof Error)
+            return new TracedError<>(result.getError(), trace.append(operation, true));
+
+        return result;
+    }
+
+    // The location is the first frame outside of the library and the JDK, such as stream or executor internals.
+    private static StackTraceElement callerLocation() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !isInternal(frame.getDeclaringClass()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null)
+        );
+    }
+
+    private static boolean isInternal(final Class<?> type) {
+        final String className = type.getName();
+        return className.startsWith("java.") || className.startsWith("jdk.") || LIBRARY_CLASSES.get(type);
+    }
+
+    private static URL location(final Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        return source == null ? null : source.getLocation();
+    }
+
+    Trace append(final String operation, final boolean origin) {
+        return with(operation, callerLocation(), origin);
+    }
+
+    Trace with(final String operation, final StackTraceElement location, final boolean origin) {
+        final Entry entry = new Entry(operation, location, origin);
+
+        if (entries.length < CAPACITY) {
+            final Entry[] appended = Arrays.copyOf(entries, entries.length + 1);
+            appended[entries.length] = entry;
+            return new Trace(appended, dropped);
+        }
+
+        // The trace is a bounded ring: the oldest operation makes room for the newest one.
+        final Entry[] shifted = new Entry[entries.length];
+        System.arraycopy(entries, 1, shifted, 0, entries.length - 1);
+        shifted[entries.length - 1] = entry;
+        return new Trace(shifted, dropped + 1);
+    }
+
+    Trace concat(final Trace other) {
+        Trace concatenated = new Trace(entries, dropped + other.dropped);
+        for (final Entry entry : other.entries)
+            concatenated = concatenated.with(entry.operation, entry.location, entry.origin);
+
+        return concatenated;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    String render() {
+        final StringBuilder builder = new StringBuilder("Result trace");
+        if (dropped > 0)
+            builder.append(" (").append(dropped).append(" earlier operations dropped)");
+        builder.append(':');
+
+        int origin = -1;
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].origin)
+                origin = i;
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+            builder.append("\n\t")
+                    .append(entries[i].operation)
+                    .append(" at ")
+                    .append(entries[i].location == null ? "unknown location" : entries[i].location);
+
+            if (i == origin)
+                builder.append(" <- error produced here");
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+
+    private static final class Entry {
+
+        private final String operation;
+        private final StackTraceElement location;
+        private final boolean origin;
+
+        private Entry(final String operation, final StackTraceElement location, final boolean origin) {
+            this.operation = operation;
+            this.location = location;
+            this.origin = origin;
+        }
+    }
+}
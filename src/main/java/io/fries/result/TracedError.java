@@ -0,0 +1,54 @@
+package io.fries.result;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class TracedError<T> extends Error<T> {
+
+    private final Trace operations;
+
+    TracedError(final Throwable throwable, final Trace operations) {
+        super(throwable);
+        this.operations = operations;
+    }
+
+    Trace operations() {
+        return operations;
+    }
+
+    @Override
+    public Result<T> switchIfError(final Function<Throwable, Result<T>> fallbackMethod) {
+        requireNonNull(fallbackMethod, "The fallback method cannot be null");
+        return Trace.chain(operations, "switchIfError", fallbackMethod.apply(getError()));
+    }
+
+    @Override
+    public <U> Result<U> map(final Function<? super T, ? extends U> mapper) {
+        return new TracedError<>(getError(), operations.append("map", false));
+    }
+
+    @Override
+    public <U> Result<U> flatMap(final Function<? super T, Result<U>> mapper) {
+        return new TracedError<>(getError(), operations.append("flatMap", false));
+    }
+
+    @Override
+    public Result<T> mapError(final Function<Throwable, ? extends Throwable> mapper) {
+        requireNonNull(mapper, "The error mapper cannot be null");
+
+        final Throwable mapped = mapper.apply(getError());
+        return new TracedError<>(mapped, operations.append("mapError", mapped != getError()));
+    }
+
+    @Override
+    public Optional<String> trace() {
+        return Optional.of(operations.render());
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "\n" + operations.render();
+    }
+}
@@ -0,0 +1,47 @@
+package io.fries.result;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class TracedOk<T> extends Ok<T> {
+
+    private final Trace operations;
+
+    TracedOk(final T value, final Trace operations) {
+        super(value);
+        this.operations = operations;
+    }
+
+    Trace operations() {
+        return operations;
+    }
+
+    @Override
+    public Result<T> switchIfError(final Function<Throwable, Result<T>> fallbackMethod) {
+        return new TracedOk<>(get(), operations.append("switchIfError", false));
+    }
+
+    @Override
+    public <U> Result<U> map(final Function<? super T, ? extends U> mapper) {
+        requireNonNull(mapper, "The value mapper cannot be null");
+        return new TracedOk<>(mapper.apply(get()), operations.append("map", false));
+    }
+
+    @Override
+    public <U> Result<U> flatMap(final Function<? super T, Result<U>> mapper) {
+        requireNonNull(mapper, "The value flat-mapper cannot be null");
+        return Trace.chain(operations, "flatMap", mapper.apply(get()));
+    }
+
+    @Override
+    public Result<T> mapError(final Function<Throwable, ? extends Throwable> mapper) {
+        return new TracedOk<>(get(), operations.append("mapError", false));
+    }
+
+    @Override
+    public Optional<String> trace() {
+        return Optional.of(operations.render());
+    }
+}
@@ -0,0 +1,184 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Function;
+
+import static java.util.Set.copyOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BatchLoaderTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    private ScheduledExecutorService scheduler;
+    private List<Set<Integer>> batches;
+
+    @BeforeEach
+    void setUp() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.batches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private Function<Set<Integer>, Map<Integer, Result<String>>> recordingBatchFunction() {
+        return keys -> {
+            batches.add(copyOf(keys));
+
+            final Map<Integer, Result<String>> values = new HashMap<>();
+            keys.forEach(key -> values.put(key, Result.ok("Value " + key)));
+            return values;
+        };
+    }
+
+    @Test
+    void should_coalesce_the_loaded_keys_into_a_single_batch_when_dispatched() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 10, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> second = loader.load(2);
+        loader.dispatch();
+
+        assertThat(first.join()).isEqualTo(Result.ok("Value 1"));
+        assertThat(second.join()).isEqualTo(Result.ok("Value 2"));
+        assertThat(batches).containsExactly(Set.of(1, 2));
+    }
+
+    @Test
+    void should_deduplicate_the_keys_loaded_within_the_same_batch() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 10, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> duplicate = loader.load(1);
+        loader.dispatch();
+
+        assertThat(duplicate).isSameAs(first);
+        assertThat(batches).containsExactly(Set.of(1));
+    }
+
+    @Test
+    void should_dispatch_the_batch_once_the_maximum_batch_size_is_reached() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 2, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> second = loader.load(2);
+
+        assertThat(first.join()).isEqualTo(Result.ok("Value 1"));
+        assertThat(second.join()).isEqualTo(Result.ok("Value 2"));
+        assertThat(batches).containsExactly(Set.of(1, 2));
+    }
+
+    @Test
+    void should_dispatch_the_batch_once_the_window_has_elapsed() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), Duration.ofMillis(10), 10, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+
+        assertThat(first.join()).isEqualTo(Result.ok("Value 1"));
+        assertThat(batches).containsExactly(Set.of(1));
+    }
+
+    @Test
+    void should_create_an_error_result_when_no_result_was_loaded_for_a_key() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> Map.of(), LONG_WINDOW, 10, scheduler);
+
+        final CompletableFuture<Result<String>> future = loader.load(1);
+        loader.dispatch();
+
+        assertThat(future.join().getError())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("No result was loaded for the key: 1");
+    }
+
+    @Test
+    void should_propagate_the_error_of_the_batch_function_to_every_key() {
+        final RuntimeException error = new IllegalStateException("Batch error");
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> {
+            throw error;
+        }, LONG_WINDOW, 10, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> second = loader.load(2);
+        loader.dispatch();
+
+        assertThat(first.join()).isEqualTo(Result.error(error));
+        assertThat(second.join()).isEqualTo(Result.error(error));
+    }
+
+    @Test
+    void should_complete_every_future_when_the_batch_function_throws_an_error() {
+        final AssertionError error = new AssertionError("Batch error");
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> {
+            throw error;
+        }, LONG_WINDOW, 10, scheduler);
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> second = loader.load(2);
+        loader.dispatch();
+
+        assertThat(first.join()).isEqualTo(Result.error(error));
+        assertThat(second.join()).isEqualTo(Result.error(error));
+    }
+
+    @Test
+    void should_run_the_batches_on_the_calling_thread_when_the_scheduler_rejects_them() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 2, scheduler);
+        scheduler.shutdown();
+
+        final CompletableFuture<Result<String>> first = loader.load(1);
+        final CompletableFuture<Result<String>> second = loader.load(2);
+
+        assertThat(first.getNow(null)).isEqualTo(Result.ok("Value 1"));
+        assertThat(second.getNow(null)).isEqualTo(Result.ok("Value 2"));
+        assertThat(batches).containsExactly(Set.of(1), Set.of(2));
+    }
+
+    @Test
+    void should_cancel_the_timer_of_a_batch_dispatched_before_its_window() {
+        final ScheduledThreadPoolExecutor timers = new ScheduledThreadPoolExecutor(1);
+        timers.setRemoveOnCancelPolicy(true);
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 10, timers);
+
+        loader.load(1);
+        loader.dispatch();
+
+        assertThat(timers.getQueue()).isEmpty();
+        timers.shutdownNow();
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_key() {
+        final BatchLoader<Integer, String> loader = BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 10, scheduler);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> loader.load(null))
+                .withNoCause()
+                .withMessage("The key to load cannot be null");
+    }
+
+    @Test
+    void should_throw_when_the_maximum_batch_size_is_not_strictly_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BatchLoader.of(recordingBatchFunction(), LONG_WINDOW, 0, scheduler))
+                .withNoCause()
+                .withMessage("The maximum batch size must be strictly positive");
+    }
+}
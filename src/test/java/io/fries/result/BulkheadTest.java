@@ -0,0 +1,153 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BulkheadTest {
+
+    @Test
+    void should_create_an_ok_result_when_a_permit_is_available() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+
+        final Result<String> result = bulkhead.execute(() -> "Value");
+
+        assertThat(result).isEqualTo(Result.ok("Value"));
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_create_an_error_result_when_the_supplier_throws_an_exception() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+        final RuntimeException error = new IllegalStateException("Error");
+
+        final Result<String> result = bulkhead.execute(() -> {
+            throw error;
+        });
+
+        assertThat(result).isEqualTo(Result.error(error));
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_reject_the_call_without_blocking_when_no_permit_is_available() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+        final AtomicReference<Result<String>> rejected = new AtomicReference<>();
+
+        bulkhead.execute(() -> {
+            rejected.set(bulkhead.execute(() -> "Value"));
+            return "Outer value";
+        });
+
+        assertThat(rejected.get().getError())
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessage("The bulkhead has no permit available");
+    }
+
+    @Test
+    void should_not_capture_the_stack_trace_of_a_rejection() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+        final AtomicReference<Result<String>> rejected = new AtomicReference<>();
+
+        bulkhead.execute(() -> {
+            rejected.set(bulkhead.execute(() -> "Value"));
+            return "Outer value";
+        });
+
+        assertThat(rejected.get().getError().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void should_decrease_the_adaptive_limit_when_a_saturated_call_times_out() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 1, 20);
+
+        bulkhead.flatExecute(() -> Result.error(new TimeoutException("Timeout")));
+
+        assertThat(bulkhead.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_decrease_the_adaptive_limit_when_a_call_fails_at_low_utilization() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(10, 1, 20);
+
+        bulkhead.flatExecute(() -> Result.error(new TimeoutException("Timeout")));
+
+        assertThat(bulkhead.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void should_not_decrease_the_adaptive_limit_when_a_saturated_call_fails_with_a_business_error() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 1, 20);
+
+        bulkhead.flatExecute(() -> Result.error(new NoSuchElementException("Not found")));
+
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void should_decrease_the_adaptive_limit_when_a_saturated_call_fails_with_an_overload_error() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 1, 20, error -> error instanceof IllegalStateException);
+
+        bulkhead.flatExecute(() -> Result.error(new IllegalStateException("Overloaded")));
+
+        assertThat(bulkhead.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_decrease_the_adaptive_limit_below_the_minimum_limit() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 2, 20);
+
+        bulkhead.flatExecute(() -> Result.error(new TimeoutException("Timeout")));
+
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void should_increase_the_adaptive_limit_after_a_window_of_successful_saturated_calls() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(1, 1, 20);
+
+        bulkhead.execute(() -> "Value");
+
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_change_a_fixed_limit() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+
+        bulkhead.execute(() -> "Value");
+        bulkhead.flatExecute(() -> Result.error(new TimeoutException("Timeout")));
+
+        assertThat(bulkhead.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void should_throw_when_the_number_of_permits_is_not_strictly_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Bulkhead.fixed(0))
+                .withNoCause()
+                .withMessage("The number of permits must be strictly positive");
+    }
+
+    @Test
+    void should_throw_when_the_initial_limit_is_out_of_bounds() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Bulkhead.adaptive(30, 1, 20))
+                .withNoCause()
+                .withMessage("The initial limit must be between the minimum and maximum limits");
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_supplier_reference() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Bulkhead.fixed(1).execute(null))
+                .withNoCause()
+                .withMessage("The value supplier cannot be null");
+    }
+}
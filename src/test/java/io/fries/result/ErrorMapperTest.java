@@ -0,0 +1,112 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ErrorMapperTest {
+
+    private final ErrorMapper mapper = ErrorMapper.create()
+            .when(IOException.class, UncheckedIOException::new)
+            .when(FileNotFoundException.class, error -> new IllegalArgumentException("Not found", error))
+            .when(RuntimeException.class, error -> new IllegalStateException("Unexpected", error));
+
+    @Test
+    void should_map_the_error_using_the_rule_of_its_exact_class() {
+        final IOException error = new IOException("I/O");
+
+        final Throwable mapped = mapper.apply(error);
+
+        assertThat(mapped)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCause(error);
+    }
+
+    @Test
+    void should_map_the_error_using_the_most_specific_rule_of_its_class_hierarchy() {
+        final FileNotFoundException error = new FileNotFoundException("Missing");
+
+        final Throwable mapped = mapper.apply(error);
+
+        assertThat(mapped)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not found")
+                .hasCause(error);
+    }
+
+    @Test
+    void should_map_the_error_using_the_rule_of_a_superclass() {
+        final IllegalArgumentException error = new IllegalArgumentException("Argument");
+
+        final Throwable mapped = mapper.apply(error);
+
+        assertThat(mapped)
+                .isInstanceOf(IllegalStateException.class)
+                .hasCause(error);
+    }
+
+    @Test
+    void should_return_the_same_error_when_no_rule_matches() {
+        final TimeoutException error = new TimeoutException("Timeout");
+
+        final Throwable mapped = mapper.apply(error);
+
+        assertThat(mapped).isSameAs(error);
+    }
+
+    @Test
+    void should_map_the_error_using_the_fallback_when_no_rule_matches() {
+        final TimeoutException error = new TimeoutException("Timeout");
+
+        final Throwable mapped = mapper
+                .otherwise(throwable -> new IllegalStateException("Fallback", throwable))
+                .apply(error);
+
+        assertThat(mapped)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Fallback");
+    }
+
+    @Test
+    void should_map_the_error_of_an_error_result() {
+        final IOException error = new IOException("I/O");
+
+        final Result<Object> result = Result.error(error).mapError(mapper);
+
+        assertThat(result.getError()).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void should_not_change_the_existing_mapper_when_adding_a_rule() {
+        final IllegalArgumentException error = new IllegalArgumentException("Argument");
+        mapper.apply(error);
+
+        mapper.when(IllegalArgumentException.class, throwable -> throwable);
+
+        assertThat(mapper.apply(error)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_when_the_rule_returns_a_null_error() {
+        final ErrorMapper nullMapper = ErrorMapper.create().when(IOException.class, error -> null);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> nullMapper.apply(new IOException()))
+                .withNoCause()
+                .withMessage("The error mapper cannot return a null error");
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_error_type() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ErrorMapper.create().when(null, error -> error))
+                .withNoCause()
+                .withMessage("The error type cannot be null");
+    }
+}
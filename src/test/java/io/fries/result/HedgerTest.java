@@ -0,0 +1,175 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class HedgerTest {
+
+    private static final Duration SHORT_DELAY = Duration.ofMillis(10);
+    private static final Duration LONG_DELAY = Duration.ofMinutes(1);
+
+    @Test
+    void should_return_the_primary_result_when_it_completes_before_the_delay() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Result<Integer> result = Hedger.fixed(LONG_DELAY, 2).execute(calls::incrementAndGet);
+
+        assertThat(result).isEqualTo(Result.ok(1));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_return_the_first_ok_result_of_a_hedged_attempt_when_the_primary_is_slow() {
+        final CountDownLatch slowPrimary = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Result<Integer> result = Hedger.fixed(SHORT_DELAY, 1).execute(() -> {
+            final int attempt = calls.incrementAndGet();
+            if (attempt == 1)
+                awaitQuietly(slowPrimary);
+            return attempt;
+        });
+
+        assertThat(result).isEqualTo(Result.ok(2));
+        slowPrimary.countDown();
+    }
+
+    @Test
+    void should_not_launch_more_attempts_than_the_maximum_number_of_hedges() {
+        final CountDownLatch release = new CountDownLatch(3);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Result<Integer> result = Hedger.fixed(SHORT_DELAY, 2).execute(() -> {
+            release.countDown();
+            awaitQuietly(release);
+            return calls.incrementAndGet();
+        });
+
+        assertThat(result.isOk()).isTrue();
+        assertThat(release.getCount()).isZero();
+        assertThat(calls.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void should_return_the_error_once_every_hedge_has_failed() {
+        final RuntimeException error = new IllegalStateException("Error");
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Result<Object> result = Hedger.fixed(SHORT_DELAY, 2).execute(() -> {
+            calls.incrementAndGet();
+            throw error;
+        });
+
+        assertThat(result).isEqualTo(Result.error(error));
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void should_keep_hedging_when_the_primary_fails_before_the_delay() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Result<Integer> result = Hedger.fixed(SHORT_DELAY, 1).execute(() -> {
+            final int attempt = calls.incrementAndGet();
+            if (attempt == 1)
+                throw new IllegalStateException("Error");
+            return attempt;
+        });
+
+        assertThat(result).isEqualTo(Result.ok(2));
+    }
+
+    @Test
+    void should_create_an_error_result_when_the_executor_rejects_the_primary_attempt() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        final Result<String> result = Result.hedge(() -> "Value", SHORT_DELAY, 1, executor);
+
+        assertThat(result.getError()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void should_use_the_initial_delay_until_enough_latencies_are_recorded() {
+        final Hedger hedger = Hedger.adaptive(LONG_DELAY, 1);
+
+        hedger.execute(() -> "Value");
+
+        assertThat(hedger.delayNanos()).isEqualTo(LONG_DELAY.toNanos());
+    }
+
+    @Test
+    void should_adapt_the_delay_to_the_observed_latencies() {
+        final Hedger hedger = Hedger.adaptive(LONG_DELAY, 1);
+
+        for (int i = 0; i < 32; i++)
+            hedger.execute(() -> "Value");
+
+        assertThat(hedger.delayNanos()).isLessThan(LONG_DELAY.toNanos());
+    }
+
+    @Test
+    void should_not_collapse_the_delay_when_slow_attempts_are_cancelled() {
+        final Duration initialDelay = Duration.ofMillis(20);
+        final Hedger hedger = Hedger.adaptive(initialDelay, 1);
+
+        for (int i = 0; i < 32; i++) {
+            final AtomicBoolean slowPrimary = new AtomicBoolean(true);
+            hedger.execute(() -> {
+                if (slowPrimary.getAndSet(false))
+                    sleepInterruptibly(LONG_DELAY);
+                return "Value";
+            });
+        }
+
+        assertThat(hedger.delayNanos()).isGreaterThanOrEqualTo(initialDelay.toNanos() / 2);
+    }
+
+    @Test
+    void should_hedge_from_the_result_factory() {
+        final Result<String> result = Result.hedge(() -> "Value", LONG_DELAY, 1);
+
+        assertThat(result).isEqualTo(Result.ok("Value"));
+    }
+
+    @Test
+    void should_throw_when_the_maximum_number_of_hedges_is_negative() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Hedger.fixed(SHORT_DELAY, -1))
+                .withNoCause()
+                .withMessage("The maximum number of hedges cannot be negative");
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_supplier_reference() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Hedger.fixed(SHORT_DELAY, 1).execute(null))
+                .withNoCause()
+                .withMessage("The value supplier cannot be null");
+    }
+
+    private static void sleepInterruptibly(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MappedLineParserTest {
+
+    private static final Function<CharSequence, Result<Integer>> INTEGER_PARSER =
+            line -> Result.of(() -> Integer.parseInt(line.toString()));
+
+    private Path file;
+    private List<Integer> values;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.file = Files.createTempFile("mapped-line-parser", ".txt");
+        this.values = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void should_consume_the_value_of_every_ok_line() throws IOException {
+        Files.write(file, "1\n2\r\n3".getBytes(UTF_8));
+
+        final Result<LineReport> report = MappedLineParser.parse(file, INTEGER_PARSER, values::add, 10, 1);
+
+        assertThat(report.get().okCount()).isEqualTo(3);
+        assertThat(report.get().errorCount()).isZero();
+        assertThat(values).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void should_report_the_malformed_lines_with_their_line_number() throws IOException {
+        Files.write(file, "1\ntwo\n3\nfour\n".getBytes(UTF_8));
+
+        final Result<LineReport> report = MappedLineParser.parse(file, INTEGER_PARSER, values::add, 10, 1);
+
+        assertThat(report.get().okCount()).isEqualTo(2);
+        assertThat(report.get().errorCount()).isEqualTo(2);
+        assertThat(report.get().errors())
+                .extracting(LineReport.LineError::lineNumber)
+                .containsExactly(2L, 4L);
+        assertThat(report.get().errors().get(0).error()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void should_only_report_the_first_errors() throws IOException {
+        Files.write(file, "a\nb\nc\n".getBytes(UTF_8));
+
+        final Result<LineReport> report = MappedLineParser.parse(file, INTEGER_PARSER, values::add, 2, 1);
+
+        assertThat(report.get().errorCount()).isEqualTo(3);
+        assertThat(report.get().errors())
+                .extracting(LineReport.LineError::lineNumber)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void should_produce_the_same_report_when_parsing_in_parallel() throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 10_000; i++)
+            content.append(i % 100 == 0 ? "error" : String.valueOf(i)).append('\n');
+        Files.write(file, content.toString().getBytes(UTF_8));
+
+        final LineReport sequential = MappedLineParser.parse(file, INTEGER_PARSER, value -> {}, 5, 1).get();
+        final LineReport parallel = MappedLineParser.parse(file, INTEGER_PARSER, values::add, 5, 8).get();
+
+        assertThat(parallel.okCount()).isEqualTo(sequential.okCount()).isEqualTo(9_900);
+        assertThat(parallel.errorCount()).isEqualTo(sequential.errorCount()).isEqualTo(100);
+        assertThat(parallel.errors())
+                .extracting(LineReport.LineError::lineNumber)
+                .containsExactly(100L, 200L, 300L, 400L, 500L);
+        assertThat(values).hasSize(9_900);
+    }
+
+    @Test
+    void should_decode_non_ascii_lines_as_utf_8() throws IOException {
+        Files.write(file, "\u00e9\nascii\n".getBytes(UTF_8));
+        final List<String> lines = new CopyOnWriteArrayList<>();
+
+        MappedLineParser.parse(file, line -> Result.ok(line.toString()), lines::add, 10, 1);
+
+        assertThat(lines).containsExactly("\u00e9", "ascii");
+    }
+
+    @Test
+    void should_create_an_error_result_when_the_parser_throws_an_exception() throws IOException {
+        Files.write(file, "1\n".getBytes(UTF_8));
+        final RuntimeException error = new IllegalStateException("Error");
+
+        final Result<LineReport> report = MappedLineParser.<Integer>parse(file, line -> {
+            throw error;
+        }, values::add, 10, 1);
+
+        assertThat(report.get().errors()).containsExactly(new LineReport.LineError(1, error));
+    }
+
+    @Test
+    void should_rethrow_the_exception_thrown_by_the_consumer() throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 1_000; i++)
+            content.append(i).append('\n');
+        Files.write(file, content.toString().getBytes(UTF_8));
+        final UncheckedIOException error = new UncheckedIOException(new IOException("Consumer error"));
+
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> MappedLineParser.parse(file, INTEGER_PARSER, value -> {
+                    throw error;
+                }, 10, 4))
+                .isSameAs(error);
+    }
+
+    @Test
+    void should_create_an_error_result_when_the_file_cannot_be_read() throws IOException {
+        Files.delete(file);
+
+        final Result<LineReport> report = MappedLineParser.parse(file, INTEGER_PARSER, values::add, 10, 1);
+
+        assertThat(report.getError()).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void should_throw_when_the_parallelism_is_not_strictly_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MappedLineParser.parse(file, INTEGER_PARSER, values::add, 10, 0))
+                .withNoCause()
+                .withMessage("The parallelism must be strictly positive");
+    }
+}
@@ -165,4 +165,32 @@ class ResultTest {
                 .withNoCause()
                 .withMessage("The error supplier cannot be null");
     }
+
+    @Test
+    void should_loop_until_the_step_function_is_done() {
+        final Result<Integer> result = Result.tailRec(0, (Integer count) -> Result.ok(count < 100_000
+                ? Step.<Integer, Integer>next(count + 1)
+                : Step.<Integer, Integer>done(count)));
+
+        assertThat(result).isEqualTo(Result.ok(100_000));
+    }
+
+    @Test
+    void should_stop_looping_when_the_step_function_returns_an_error() {
+        final RuntimeException error = new IllegalStateException("Error");
+
+        final Result<Integer> result = Result.tailRec(0, (Integer count) -> count < 10
+                ? Result.ok(Step.<Integer, Integer>next(count + 1))
+                : Result.error(error));
+
+        assertThat(result).isEqualTo(Result.error(error));
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_step_function_reference() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Result.tailRec(0, null))
+                .withNoCause()
+                .withMessage("The step function cannot be null");
+    }
 }
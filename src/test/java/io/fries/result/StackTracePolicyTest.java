@@ -0,0 +1,112 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StackTracePolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        StackTracePolicy.setDefault(StackTracePolicy.full());
+    }
+
+    @Test
+    void should_use_the_full_policy_by_default() {
+        final StackTracePolicy policy = StackTracePolicy.getDefault();
+
+        assertThat(policy).isEqualTo(StackTracePolicy.full());
+    }
+
+    @Test
+    void should_capture_the_stack_trace_of_a_null_pointer_exception_with_the_full_policy() {
+        final Result<Object> result = StackTracePolicy.full().ofNullable(null);
+
+        final Throwable error = result.getError();
+        assertThat(error)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("The result was initialized with a null value");
+        assertThat(error.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void should_not_capture_the_stack_trace_of_a_null_pointer_exception_with_the_stackless_policy() {
+        final Result<Object> result = StackTracePolicy.stackless().ofNullable(null);
+
+        final Throwable error = result.getError();
+        assertThat(error)
+                .isInstanceOf(NullPointerException.class)
+                .hasNoCause()
+                .hasMessage("The result was initialized with a null value");
+        assertThat(error.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void should_not_capture_the_stack_trace_of_a_no_such_element_exception_with_the_stackless_policy() {
+        final Result<Object> result = StackTracePolicy.stackless().of(Optional.empty());
+
+        final Throwable error = result.getError();
+        assertThat(error)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasNoCause()
+                .hasMessage("No value present when unwrapping the optional");
+        assertThat(error.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void should_create_an_ok_result_when_the_nullable_value_is_not_null() {
+        final Result<String> result = StackTracePolicy.stackless().ofNullable("Value");
+
+        assertThat(result).isEqualTo(Result.ok("Value"));
+    }
+
+    @Test
+    void should_apply_the_default_policy_to_the_result_factories() {
+        StackTracePolicy.setDefault(StackTracePolicy.stackless());
+
+        final Result<Object> result = Result.ofNullable(null);
+
+        assertThat(result.getError().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void should_capture_every_stack_trace_when_sampling_one_error_out_of_one() {
+        final StackTracePolicy policy = StackTracePolicy.sampled(1);
+
+        assertThat(policy).isEqualTo(StackTracePolicy.full());
+    }
+
+    @Test
+    void should_capture_only_some_stack_traces_when_sampling() {
+        final StackTracePolicy policy = StackTracePolicy.sampled(2);
+
+        long captured = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (policy.ofNullable(null).getError().getStackTrace().length > 0)
+                captured++;
+        }
+
+        assertThat(captured).isBetween(1L, 999L);
+    }
+
+    @Test
+    void should_throw_when_the_sample_rate_is_not_strictly_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> StackTracePolicy.sampled(0))
+                .withNoCause()
+                .withMessage("The sample rate must be strictly positive");
+    }
+
+    @Test
+    void should_throw_when_providing_a_null_reference_as_the_default_policy() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> StackTracePolicy.setDefault(null))
+                .withNoCause()
+                .withMessage("The stack trace policy cannot be null");
+    }
+}
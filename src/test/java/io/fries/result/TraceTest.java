@@ -0,0 +1,69 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceTest {
+
+    private static final StackTraceElement LOCATION = new StackTraceElement("Service", "find", "Service.java", 42);
+
+    @Test
+    void should_be_disabled_by_default() {
+        assertThat(Trace.ENABLED).isFalse();
+        assertThat(Result.ok("Value")).isExactlyInstanceOf(Ok.class);
+        assertThat(Result.error(new IllegalStateException("Error"))).isExactlyInstanceOf(Error.class);
+    }
+
+    @Test
+    void should_not_expose_any_trace_while_disabled() {
+        assertThat(Result.ok("Value").map(String::length).trace()).isEmpty();
+        assertThat(Result.error(new IllegalStateException("Error")).trace()).isEmpty();
+    }
+
+    @Test
+    void should_render_the_recorded_operations_in_order() {
+        final Trace trace = Trace.empty()
+                .with("ok", LOCATION, false)
+                .with("map", LOCATION, false);
+
+        assertThat(trace.render()).isEqualTo("Result trace:" +
+                "\n\tok at Service.find(Service.java:42)" +
+                "\n\tmap at Service.find(Service.java:42)");
+    }
+
+    @Test
+    void should_flag_the_last_operation_that_produced_the_error() {
+        final Trace trace = Trace.empty()
+                .with("error", LOCATION, true)
+                .with("mapError", LOCATION, true)
+                .with("map", null, false);
+
+        assertThat(trace.render()).isEqualTo("Result trace:" +
+                "\n\terror at Service.find(Service.java:42)" +
+                "\n\tmapError at Service.find(Service.java:42) <- error produced here" +
+                "\n\tmap at unknown location");
+    }
+
+    @Test
+    void should_drop_the_oldest_operations_once_the_capacity_is_reached() {
+        Trace trace = Trace.empty();
+        for (int i = 0; i < Trace.CAPACITY + 2; i++)
+            trace = trace.with("map", LOCATION, false);
+
+        assertThat(trace.size()).isEqualTo(Trace.CAPACITY);
+        assertThat(trace.render()).startsWith("Result trace (2 earlier operations dropped):");
+    }
+
+    @Test
+    void should_append_the_operations_of_another_trace() {
+        final Trace outer = Trace.empty().with("flatMap", LOCATION, true);
+        final Trace inner = Trace.empty().with("error", null, true);
+
+        final Trace trace = outer.concat(inner);
+
+        assertThat(trace.render()).isEqualTo("Result trace:" +
+                "\n\tflatMap at Service.find(Service.java:42)" +
+                "\n\terror at unknown location <- error produced here");
+    }
+}
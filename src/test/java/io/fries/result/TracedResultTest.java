@@ -0,0 +1,114 @@
+package io.fries.result;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("traced")
+@EnabledIfSystemProperty(named = "io.fries.result.trace", matches = "true")
+class TracedResultTest {
+
+    private static final String LOCATION = "at io.fries.result.TracedResultTest.";
+
+    @Test
+    void should_create_traced_results_when_enabled() {
+        assertThat(Trace.ENABLED).isTrue();
+        assertThat(Result.ok("Value")).isExactlyInstanceOf(TracedOk.class);
+        assertThat(Result.error(new IllegalStateException("Error"))).isExactlyInstanceOf(TracedError.class);
+    }
+
+    @Test
+    void should_record_the_operations_of_a_chain_at_their_caller_location() {
+        final Result<Integer> result = Result.ok("Value")
+                .map(String::length)
+                .flatMap(length -> Result.<Integer, RuntimeException>error(new IllegalStateException("Error")))
+                .map(length -> length * 2);
+
+        final String[] lines = result.trace().orElseThrow().split("\n\t");
+
+        assertThat(lines).hasSize(6);
+        assertThat(lines[0]).isEqualTo("Result trace:");
+        assertThat(lines[1]).startsWith("ok " + LOCATION);
+        assertThat(lines[2]).startsWith("map " + LOCATION);
+        assertThat(lines[3]).startsWith("flatMap " + LOCATION);
+        assertThat(lines[4]).startsWith("error " + LOCATION).endsWith(" <- error produced here");
+        assertThat(lines[5]).startsWith("map " + LOCATION).doesNotContain("<- error produced here");
+    }
+
+    @Test
+    void should_flag_the_mapped_error_as_the_origin() {
+        final Result<String> result = Result.<String, RuntimeException>error(new IllegalStateException("Error"))
+                .mapError(IllegalArgumentException::new);
+
+        final String trace = result.trace().orElseThrow();
+
+        assertThat(trace).containsOnlyOnce("<- error produced here");
+        assertThat(trace).containsPattern("mapError at .+ <- error produced here$");
+    }
+
+    @Test
+    void should_keep_the_trace_of_the_error_when_switching_to_a_fallback() {
+        final Result<String> result = Result.<String, RuntimeException>error(new IllegalStateException("Error"))
+                .switchIfError(error -> Result.ok("Fallback"));
+
+        final String[] lines = result.trace().orElseThrow().split("\n\t");
+
+        assertThat(result.get()).isEqualTo("Fallback");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).startsWith("error " + LOCATION);
+        assertThat(lines[2]).startsWith("switchIfError " + LOCATION);
+        assertThat(lines[3]).startsWith("ok " + LOCATION);
+    }
+
+    @Test
+    void should_locate_the_caller_of_the_library_classes() {
+        final Result<Object> result = Result.ofNullable(null);
+
+        final String[] lines = result.trace().orElseThrow().split("\n\t");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).startsWith("error " + LOCATION + "should_locate_the_caller_of_the_library_classes(");
+    }
+
+    @Test
+    void should_not_attach_anything_to_the_error() {
+        final IllegalStateException error = new IllegalStateException("Error");
+        final Result<Integer> result = Result.error(error);
+
+        for (int i = 0; i < 4; i++)
+            result.map(value -> value + 1).getError();
+
+        assertThat(error.getSuppressed()).isEmpty();
+        assertThat(result.toString()).contains("Result trace:");
+    }
+
+    @Test
+    void should_be_equal_to_the_untraced_results() {
+        assertThat(Result.ok("Value")).isEqualTo(new Ok<>("Value"));
+        assertThat(new Ok<>("Value")).isEqualTo(Result.ok("Value"));
+    }
+
+    @Test
+    void should_run_tail_recursive_flows_while_traced() {
+        final Result<Integer> result = Result.tailRec(0, (Integer count) -> Result.ok(count < 100_000
+                ? Step.<Integer, Integer>next(count + 1)
+                : Step.<Integer, Integer>done(count)));
+
+        assertThat(result.get()).isEqualTo(100_000);
+        assertThat(result.trace()).isPresent();
+    }
+
+    @Test
+    void should_return_the_error_of_a_tail_recursive_flow_without_any_extra_operation() {
+        final Result<Integer> result = Result.tailRec(0, (Integer count) -> count < 10
+                ? Result.ok(Step.<Integer, Integer>next(count + 1))
+                : Result.error(new IllegalStateException("Error")));
+
+        final String[] lines = result.trace().orElseThrow().split("\n\t");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).startsWith("error " + LOCATION).endsWith(" <- error produced here");
+    }
+}